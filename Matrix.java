@@ -29,6 +29,7 @@ public class Matrix {
      * While the value of the elements goes from 0 to 9999
      */
     public Matrix() {
+        MatrixOperationEvent event = MatrixMetrics.start();
         rows = 1 + (int)(Math.random() * 100);
         cols = 1 + (int)(Math.random() * 100);
         matrix = new int [rows][cols];
@@ -38,6 +39,7 @@ public class Matrix {
                 matrix[i][j] = (int)(Math.random() * (9999 + 1));
             }
         }
+        MatrixMetrics.record(MatrixMetrics.Operation.CONSTRUCTOR, event, rows * cols, MatrixMetrics.intMatrixBytes(rows, cols));
     }
 
     /**
@@ -52,6 +54,7 @@ public class Matrix {
         if (rows < 0 || cols < 0) {
             throw new IllegalArgumentException("Illegal Rows or Cols Capacity");
         }
+        MatrixOperationEvent event = MatrixMetrics.start();
         this.rows = rows;
         this.cols = cols;
         matrix = new int [rows][cols];
@@ -60,6 +63,8 @@ public class Matrix {
             int[] values = rand.ints(rows * cols, 0, 10000).toArray();
             toMatrix(values);
         }
+        MatrixMetrics.record(MatrixMetrics.Operation.CONSTRUCTOR, event, random ? rows * cols : 0,
+                MatrixMetrics.intMatrixBytes(rows, cols) + (random ? MatrixMetrics.intArrayBytes(rows * cols) : 0));
     }
 
     /**
@@ -92,12 +97,14 @@ public class Matrix {
         if (rows < 0 && cols < 0)
             throw new IllegalArgumentException("Illegal Rows or Cols Capacity");
             
+        MatrixOperationEvent event = MatrixMetrics.start();
         this.rows = rows;
 		this.cols = cols;
         this.matrix = new int[rows][cols];
         for (int i = 0; i < rows; i++) {
             System.arraycopy(matrix[i], 0, this.matrix[i], 0, cols);
         }
+        MatrixMetrics.record(MatrixMetrics.Operation.CONSTRUCTOR, event, rows * cols, MatrixMetrics.intMatrixBytes(rows, cols));
     }
 
     /**
@@ -112,9 +119,24 @@ public class Matrix {
      * @param matrixB : Matrix class object, copies its values to the current object
      */
     public Matrix(Matrix matrixB) {
+        MatrixOperationEvent event = MatrixMetrics.start();
         rows = matrixB.rows;
         cols = matrixB.cols;
         System.arraycopy(matrixB.matrix, 0, this.matrix, 0, rows * cols);
+        MatrixMetrics.record(MatrixMetrics.Operation.CONSTRUCTOR, event, rows * cols, 0);
+    }
+
+    /**
+     * Wraps an already allocated matrix without copying it and without recording a {@code CONSTRUCTOR} call in {@link MatrixMetrics},
+     * the operation that allocated {@code matrix} accounts its bytes
+     * @param rows int : Number of rows
+     * @param cols int : Number of cols
+     * @param matrix int[][] : 2D-Array, used as is
+     */
+    private Matrix(int rows, int cols, int[][] matrix) {
+        this.rows = rows;
+        this.cols = cols;
+        this.matrix = matrix;
     }
 
     /**
@@ -233,15 +255,20 @@ public class Matrix {
         if (row_start >= rows && row_start < 0 || cols_start >= rows && cols_start < 0)
             throw new IllegalArgumentException("Illegal Row Or Col Start Size");
 
+        MatrixOperationEvent event = MatrixMetrics.start();
         for (int i = row_start; i < rows; i++) {
             for (int j = cols_start; j < cols; j++) {
                 if (at(i, j) == number) {
                     int[] indexes = {i, j};
+                    MatrixMetrics.record(MatrixMetrics.Operation.INDEXES_OF, event,
+                            (long) (i - row_start) * (cols - cols_start) + (j - cols_start + 1), MatrixMetrics.intArrayBytes(2));
                     return indexes;
                 }
             }
         }
         int[] error = {-1, -1};
+        MatrixMetrics.record(MatrixMetrics.Operation.INDEXES_OF, event,
+                (long) Math.max(0, rows - row_start) * Math.max(0, cols - cols_start), MatrixMetrics.intArrayBytes(2));
         return error;
     }
 
@@ -353,7 +380,8 @@ public class Matrix {
     }
 
     /**
-     * Sum each element of the matrix with each element of the second matrix
+     * Sum each element of the matrix with each element of the second matrix.
+     * The result is allocated as a raw {@code int[][]}, so its bytes are recorded only under {@code MATRIX_SUM} in {@link MatrixMetrics}
      * @param second_matrix : int[][], the second matrix must have the same size as the first
      * @return int[][] : Another matrix containing the results of the operation
      * @throws IllegalArgumentException <b>if</b> ({@code if the size of the second matrix is different from the matrix})
@@ -362,13 +390,15 @@ public class Matrix {
         if (areEqualSize(second_matrix))
             throw new IllegalArgumentException("Illegal Second Matrix Capacity");
         
-        Matrix result = new Matrix(rows, cols);
+        MatrixOperationEvent event = MatrixMetrics.start();
+        int[][] local_matrix = new int[rows][cols];
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                result.set(i, j, (at(i, j) + second_matrix[i][j]));
+                local_matrix[i][j] = at(i, j) + second_matrix[i][j];
             }
         }
-        return result.getMatrix();
+        MatrixMetrics.record(MatrixMetrics.Operation.MATRIX_SUM, event, rows * cols, MatrixMetrics.intMatrixBytes(rows, cols));
+        return local_matrix;
     }
     
     /**
@@ -381,13 +411,13 @@ public class Matrix {
         if (areEqualSize(second_matrix))
             throw new IllegalArgumentException("Illegal Second Matrix Capacity");
             
-            Matrix result = new Matrix(rows, cols);
+            int[][] local_matrix = new int[rows][cols];
             for (int i = 0; i < rows; i++) {
                 for (int j = 0; j < cols; j++) {
-                    result.set(i, j, (at(i, j) * second_matrix[i][j]));
+                    local_matrix[i][j] = at(i, j) * second_matrix[i][j];
                 }
             }
-            return result.getMatrix();
+            return local_matrix;
     }
     
     /**
@@ -400,6 +430,7 @@ public class Matrix {
         if (cols != second_matrix[0].length)
             throw new IllegalArgumentException("The number of columns in this matrix must match the number of rows in the other matrix");
             
+        MatrixOperationEvent event = MatrixMetrics.start();
         int local_cols = second_matrix[0].length;
         int[][] local_matrix = new int[rows][local_cols];
         
@@ -410,11 +441,14 @@ public class Matrix {
                 }
             }
         }  
+        MatrixMetrics.record(MatrixMetrics.Operation.MATRIX_MULTIPLICATION, event, (long) rows * local_cols * cols,
+                MatrixMetrics.intMatrixBytes(rows, local_cols));
         return local_matrix;
     }
 
     /**
      * Returns the result of multiplying this matrix by the given matrix.
+     * The result wraps a raw {@code int[][]} through a private constructor, so its bytes are recorded only under {@code MATRIX_MULTIPLICATION} in {@link MatrixMetrics}
      * @param second_matrix : Matrix Object
      * @throws IllegalArgumentException if the number of columns in this matrix does not match the number of rows in the other matrix
      * @return Matrix Object : the result of multiplying this matrix by the given matrix
@@ -424,7 +458,8 @@ public class Matrix {
         if (cols != local_cols)
             throw new IllegalArgumentException("The number of columns in this matrix must match the number of rows in the other matrix");
             
-        Matrix risult = new Matrix(rows, local_cols);
+        MatrixOperationEvent event = MatrixMetrics.start();
+        Matrix risult = new Matrix(rows, local_cols, new int[rows][local_cols]);
         
         for(int i = 0; i < rows; i++){    
             for(int j = 0; j < local_cols; j++){        
@@ -433,6 +468,8 @@ public class Matrix {
                 }
             }
         }  
+        MatrixMetrics.record(MatrixMetrics.Operation.MATRIX_MULTIPLICATION, event, (long) rows * local_cols * cols,
+                MatrixMetrics.intMatrixBytes(rows, local_cols));
         return risult;
     }
 
@@ -470,12 +507,14 @@ public class Matrix {
      * @return : int[][] matrix with the results
      */
     public int[][] transpose() {
+        MatrixOperationEvent event = MatrixMetrics.start();
         int[][] newMatrix = new int[cols][rows];
         for(int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
                 newMatrix[j][i] = at(i, j);
             }
         }
+        MatrixMetrics.record(MatrixMetrics.Operation.TRANSPOSE, event, rows * cols, MatrixMetrics.intMatrixBytes(cols, rows));
         return newMatrix;
     }
 
@@ -533,9 +572,11 @@ public class Matrix {
      * Sorts the elements of the matrix in ascending order.
      */
     public void sort() {
+        MatrixOperationEvent event = MatrixMetrics.start();
         int[] local_array = toArray();
         Arrays.sort(local_array);
         toMatrix(local_array);
+        MatrixMetrics.record(MatrixMetrics.Operation.SORT, event, local_array.length, MatrixMetrics.intArrayBytes(local_array.length));
     }
 
     /**
@@ -0,0 +1,343 @@
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MatrixMetrics Class provides opt-in instrumentation of the {@link Matrix} hot paths.
+ * For each operation it records the number of calls, a latency histogram, the elements processed and the estimated bytes allocated.
+ * The values can be polled with {@link #snapshot()} and the calls above the JFR threshold are also committed as a {@link MatrixOperationEvent}.
+ * Instrumentation is disabled by default, enable it with {@code -Dmatrix.metrics=true} or with {@link #setEnabled(boolean)}.
+ * When disabled every instrumented method only pays a read of a volatile boolean.
+ * @author Andrea Cotugno 4iB Marconi
+ */
+public final class MatrixMetrics {
+    /**
+     * Number of latency buckets, bucket {@code i} contains the calls that lasted less than {@code 2^i} nanoseconds
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * Estimated size of an array header (mark word, class pointer and length) with compressed oops
+     */
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * Estimated size of a reference with compressed oops
+     */
+    private static final long REFERENCE_BYTES = 4;
+
+    /**
+     * Instrumented operations of the Matrix class
+     */
+    public enum Operation {
+        CONSTRUCTOR,
+        MATRIX_MULTIPLICATION,
+        MATRIX_SUM,
+        TRANSPOSE,
+        SORT,
+        INDEXES_OF
+    }
+
+    /**
+     * Flag checked by every instrumented method
+     */
+    private static volatile boolean enabled = Boolean.getBoolean("matrix.metrics");
+
+    /**
+     * Live counters of each operation
+     */
+    private static final Map<Operation, Stats> STATS = new EnumMap<>(Operation.class);
+
+    static {
+        for (Operation operation : Operation.values()) {
+            STATS.put(operation, new Stats());
+        }
+    }
+
+    private MatrixMetrics() {
+    }
+
+    /**
+     * Check if the instrumentation is enabled
+     * @return <b>true</b> or <b>false</b>
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable the instrumentation, the counters already recorded are kept
+     * @param enabled boolean : {@code true} to start recording
+     */
+    public static void setEnabled(boolean enabled) {
+        MatrixMetrics.enabled = enabled;
+    }
+
+    /**
+     * Clears the counters of every operation
+     */
+    public static void reset() {
+        for (Stats stats : STATS.values()) {
+            stats.reset();
+        }
+    }
+
+    /**
+     * Returns a copy of the counters of every operation
+     * @return Map : an immutable snapshot for each {@link Operation}
+     */
+    public static Map<Operation, Snapshot> snapshot() {
+        Map<Operation, Snapshot> snapshots = new EnumMap<>(Operation.class);
+        for (Map.Entry<Operation, Stats> entry : STATS.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Returns a copy of the counters of a single operation
+     * @param operation Operation : operation to read
+     * @return Snapshot : an immutable snapshot of the counters
+     */
+    public static Snapshot snapshot(Operation operation) {
+        return STATS.get(operation).snapshot(operation);
+    }
+
+    /**
+     * Marks the start of an operation, beginning its JFR event
+     * @return MatrixOperationEvent : the begun event or {@code null} if the instrumentation is off
+     */
+    static MatrixOperationEvent start() {
+        if (!enabled) {
+            return null;
+        }
+        MatrixOperationEvent event = new MatrixOperationEvent();
+        event.begin();
+        event.startNanos = System.nanoTime();
+        return event;
+    }
+
+    /**
+     * Records the end of an operation started with {@link #start()}
+     * @param operation Operation : operation executed
+     * @param event MatrixOperationEvent : value returned by {@link #start()}
+     * @param elements long : number of elements read or written
+     * @param bytes long : estimated bytes allocated
+     */
+    static void record(Operation operation, MatrixOperationEvent event, long elements, long bytes) {
+        if (event == null) {
+            return;
+        }
+        long latency = Math.max(0, System.nanoTime() - event.startNanos);
+        STATS.get(operation).add(latency, elements, bytes);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.elements = elements;
+            event.bytesAllocated = bytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * Estimated bytes of an {@code int[length]}
+     * @param length int : length of the array
+     * @return long : bytes
+     */
+    static long intArrayBytes(long length) {
+        return align(ARRAY_HEADER_BYTES + length * Integer.BYTES);
+    }
+
+    /**
+     * Estimated bytes of an {@code int[rows][cols]}, counting the array of rows and every row
+     * @param rows int : Number of rows
+     * @param cols int : Number of cols
+     * @return long : bytes
+     */
+    static long intMatrixBytes(long rows, long cols) {
+        return align(ARRAY_HEADER_BYTES + rows * REFERENCE_BYTES) + rows * intArrayBytes(cols);
+    }
+
+    /**
+     * Rounds the size of an object to the 8 bytes alignment of the heap
+     */
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Returns the bucket of the histogram for a latency, 0 goes in bucket 0 and {@code [2^(i-1), 2^i)} in bucket {@code i},
+     * so {@link Long#MAX_VALUE} goes in the last bucket
+     * @param latency long : nanoseconds
+     * @return int : index of the bucket
+     */
+    static int bucket(long latency) {
+        return Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(latency));
+    }
+
+    /**
+     * Live counters of an operation, updated concurrently by the instrumented methods
+     */
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder elements = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void add(long latency, long elements, long bytes) {
+            count.increment();
+            totalNanos.add(latency);
+            maxNanos.accumulate(latency);
+            this.elements.add(elements);
+            this.bytes.add(bytes);
+            histogram.incrementAndGet(bucket(latency));
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            elements.reset();
+            bytes.reset();
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+        }
+
+        Snapshot snapshot(Operation operation) {
+            long[] buckets = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new Snapshot(operation, count.sum(), totalNanos.sum(), maxNanos.get(), elements.sum(), bytes.sum(), buckets);
+        }
+    }
+
+    /**
+     * Immutable copy of the counters of an operation, the counters are read one by one so under load they can be slightly out of step
+     */
+    public static final class Snapshot {
+        private final Operation operation;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long elements;
+        private final long bytes;
+        private final long[] histogram;
+
+        Snapshot(Operation operation, long count, long totalNanos, long maxNanos, long elements, long bytes, long[] histogram) {
+            this.operation = operation;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.elements = elements;
+            this.bytes = bytes;
+            this.histogram = histogram;
+        }
+
+        /**
+         * Standard method, returns the operation
+         * @return Operation : operation
+         */
+        public Operation getOperation() {
+            return operation;
+        }
+
+        /**
+         * Standard method, returns the number of calls
+         * @return long : calls
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Standard method, returns the time spent in every call
+         * @return long : nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Standard method, returns the slowest call
+         * @return long : nanoseconds
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Calculate the average latency of a call
+         * @return long : nanoseconds, 0 if there are no calls
+         */
+        public long getAverageNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Standard method, returns the elements processed by every call
+         * @return long : elements
+         */
+        public long getElements() {
+            return elements;
+        }
+
+        /**
+         * Standard method, returns the estimated bytes allocated by every call
+         * @return long : bytes
+         */
+        public long getBytesAllocated() {
+            return bytes;
+        }
+
+        /**
+         * Returns the latency histogram, bucket {@code i} contains the calls that lasted less than {@code 2^i} nanoseconds
+         * @return long[] : a copy of the {@link MatrixMetrics#BUCKETS} buckets
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        /**
+         * Estimate a latency percentile from the histogram, the result is the upper bound of the bucket containing it
+         * @param percentile double : value between 0 and 100
+         * @return long : nanoseconds, 0 if there are no calls
+         * @throws IllegalArgumentException {@code if (percentile < 0 || percentile > 100)}
+         */
+        public long percentile(double percentile) {
+            if (percentile < 0 || percentile > 100)
+                throw new IllegalArgumentException("Illegal percentile " + percentile);
+
+            long total = Arrays.stream(histogram).sum();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return Math.min(maxNanos, i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * Returns a string with the counters of the operation
+         * @return String element : {@code string}
+         */
+        public String toString() {
+            return operation + "[count=" + count + ", avg=" + getAverageNanos() + "ns, p50=" + percentile(50)
+                    + "ns, p99=" + percentile(99) + "ns, max=" + maxNanos + "ns, elements=" + elements
+                    + ", bytes=" + bytes + "]";
+        }
+    }
+}
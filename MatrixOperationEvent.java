@@ -0,0 +1,47 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event committed for the instrumented {@link Matrix} operations while {@link MatrixMetrics} is enabled.
+ * The event begins when the operation starts, so its duration is the latency of the operation.
+ * It is enabled by default in every recording, but only calls lasting at least 1 ms are committed,
+ * change it with {@code matrix.Operation#threshold} (for example {@code 0 ms} to record every call).
+ * @author Andrea Cotugno 4iB Marconi
+ */
+@Name("matrix.Operation")
+@Label("Matrix Operation")
+@Category({"Matrix"})
+@Description("A Matrix operation with its latency, elements processed and estimated bytes allocated")
+@StackTrace(false)
+@Threshold("1 ms")
+final class MatrixOperationEvent extends Event {
+    /**
+     * Name of the operation, see {@link MatrixMetrics.Operation}
+     */
+    @Label("Operation")
+    String operation;
+
+    /**
+     * Number of elements read or written by the operation
+     */
+    @Label("Elements Processed")
+    long elements;
+
+    /**
+     * Estimated bytes of the arrays created by the operation
+     */
+    @Label("Bytes Allocated")
+    @DataAmount(DataAmount.BYTES)
+    long bytesAllocated;
+
+    /**
+     * {@link System#nanoTime()} at the start of the operation, used by {@link MatrixMetrics} and not recorded by JFR
+     */
+    transient long startNanos;
+}